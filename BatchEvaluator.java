@@ -0,0 +1,292 @@
+// BatchEvaluator.java
+import java.util.stream.IntStream;
+
+/**
+ * Evaluates large batches of positions without going through TicTacToeModel.
+ *
+ * Positions are packed into an int with two bits per cell, cell index row * 3 + col
+ * occupying bits 2 * index and 2 * index + 1: 0 = empty, 1 = 'X', 2 = 'O'.
+ * Status and best move for every packed position are computed once into lookup tables,
+ * so evaluating a batch is a table lookup per position, split across cores for large batches.
+ */
+public class BatchEvaluator {
+    /** Best move value for positions where the game is already over. */
+    public static final byte NO_MOVE = -1;
+
+    private static final int CELLS = 9;
+    private static final int TABLE_SIZE = 1 << (2 * CELLS);
+    private static final int EMPTY = 0;
+    private static final int X = 1;
+    private static final int O = 2;
+    private static final int MIN_PARALLEL_BATCH = 1 << 14;
+
+    // Cell indices of every winning line, in the order GameRules.findLine tests them
+    private static final int[][] LINES = {
+        {0, 1, 2}, {3, 4, 5}, {6, 7, 8},
+        {0, 3, 6}, {1, 4, 7}, {2, 5, 8},
+        {0, 4, 8}, {2, 4, 6}
+    };
+
+    private static final TicTacToeModel.GameStatus[] STATUSES = TicTacToeModel.GameStatus.values();
+
+    /**
+     * Holds the results of a batch evaluation, one entry per input position.
+     */
+    public static class Result {
+        private final byte[] statuses;
+        private final char[] winners;
+        private final byte[] bestMoves;
+
+        private Result(int size) {
+            this.statuses = new byte[size];
+            this.winners = new char[size];
+            this.bestMoves = new byte[size];
+        }
+
+        /**
+         * Gets the game statuses.
+         * @return The GameStatus ordinal of each position.
+         */
+        public byte[] getStatuses() {
+            return statuses;
+        }
+
+        /**
+         * Gets the winners.
+         * @return The winner of each position ('X', 'O', or ' ' if nobody has won).
+         */
+        public char[] getWinners() {
+            return winners;
+        }
+
+        /**
+         * Gets the best moves for the player to move.
+         * @return The best cell index (row * 3 + col) of each position, or NO_MOVE if the game is over.
+         */
+        public byte[] getBestMoves() {
+            return bestMoves;
+        }
+
+        /**
+         * Gets the game status of a single position.
+         * @param index The index of the position in the batch.
+         * @return The game status.
+         */
+        public TicTacToeModel.GameStatus getStatus(int index) {
+            return STATUSES[statuses[index]];
+        }
+    }
+
+    /**
+     * Lookup tables, built on first use so the Swing client does not pay for them at startup.
+     */
+    private static class Tables {
+        static final byte[] STATUS = new byte[TABLE_SIZE];
+        static final byte[] BEST_MOVE = new byte[TABLE_SIZE];
+
+        static {
+            // Scores for the player to move, memoized per position; 0 marks "not yet computed"
+            byte[] scores = new byte[TABLE_SIZE];
+            buildStatus(0, 0);
+            for (int position = 0; position < TABLE_SIZE; position++) {
+                if (isValid(position)) {
+                    score(position, scores);
+                }
+            }
+        }
+
+        private static void buildStatus(int cell, int position) {
+            if (cell == CELLS) {
+                STATUS[position] = (byte) computeStatus(position).ordinal();
+                return;
+            }
+            buildStatus(cell + 1, position);
+            buildStatus(cell + 1, position | (X << (2 * cell)));
+            buildStatus(cell + 1, position | (O << (2 * cell)));
+        }
+
+        /**
+         * Negamax score for the player to move, stored offset by 64 so that 0 means "unknown".
+         * A win scores higher the more empty cells remain, so quicker wins are preferred.
+         */
+        private static int score(int position, byte[] scores) {
+            if (scores[position] != 0) {
+                return scores[position] - 64;
+            }
+            int result;
+            if (STATUSES[STATUS[position]] != TicTacToeModel.GameStatus.PLAYING) {
+                BEST_MOVE[position] = NO_MOVE;
+                int winner = winnerOf(STATUSES[STATUS[position]]);
+                // The previous player made the last move, so a win is a loss for the player to move
+                result = winner == EMPTY ? 0
+                        : (winner == playerToMove(position) ? 1 : -1) * (1 + emptyCells(position));
+            } else {
+                int player = playerToMove(position);
+                int best = Integer.MIN_VALUE;
+                int bestCell = NO_MOVE;
+                for (int cell = 0; cell < CELLS; cell++) {
+                    if (cellAt(position, cell) == EMPTY) {
+                        int value = -score(position | (player << (2 * cell)), scores);
+                        if (value > best) {
+                            best = value;
+                            bestCell = cell;
+                        }
+                    }
+                }
+                BEST_MOVE[position] = (byte) bestCell;
+                result = best;
+            }
+            scores[position] = (byte) (result + 64);
+            return result;
+        }
+    }
+
+    private BatchEvaluator() {
+    }
+
+    /**
+     * Packs a 3x3 board into an int.
+     * @param board The board, indexed [row][col], holding 'X', 'O', or ' '.
+     * @return The packed position.
+     */
+    public static int encode(char[][] board) {
+        int position = 0;
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 3; j++) {
+                int code = board[i][j] == 'X' ? X : board[i][j] == 'O' ? O : EMPTY;
+                position |= code << (2 * (i * 3 + j));
+            }
+        }
+        return position;
+    }
+
+    /**
+     * Packs the current board of a model into an int.
+     * @param model The model to read.
+     * @return The packed position.
+     */
+    public static int encode(TicTacToeModel model) {
+        int position = 0;
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 3; j++) {
+                char cell = model.getCell(i, j);
+                int code = cell == 'X' ? X : cell == 'O' ? O : EMPTY;
+                position |= code << (2 * (i * 3 + j));
+            }
+        }
+        return position;
+    }
+
+    /**
+     * Gets the status of a single packed position.
+     * @param position The packed position.
+     * @return The game status.
+     */
+    public static TicTacToeModel.GameStatus status(int position) {
+        checkPosition(position, 0);
+        return STATUSES[Tables.STATUS[position]];
+    }
+
+    /**
+     * Gets the best move for the player to move in a single packed position.
+     * @param position The packed position.
+     * @return The best cell index (row * 3 + col), or NO_MOVE if the game is over.
+     */
+    public static int bestMove(int position) {
+        checkPosition(position, 0);
+        return Tables.BEST_MOVE[position];
+    }
+
+    /**
+     * Evaluates a batch of packed positions.
+     * Large batches are split across the common fork-join pool.
+     * @param positions The packed positions.
+     * @return The status, winner and best move of every position.
+     * @throws IllegalArgumentException if a position is not a valid packed board.
+     */
+    public static Result evaluate(int[] positions) {
+        Result result = new Result(positions.length);
+        byte[] statusTable = Tables.STATUS;
+        byte[] bestMoveTable = Tables.BEST_MOVE;
+        IntStream indices = IntStream.range(0, positions.length);
+        if (positions.length >= MIN_PARALLEL_BATCH) {
+            indices = indices.parallel();
+        }
+        indices.forEach(i -> {
+            int position = positions[i];
+            checkPosition(position, i);
+            byte status = statusTable[position];
+            result.statuses[i] = status;
+            result.winners[i] = status == TicTacToeModel.GameStatus.X_WINS.ordinal() ? 'X'
+                    : status == TicTacToeModel.GameStatus.O_WINS.ordinal() ? 'O' : ' ';
+            result.bestMoves[i] = bestMoveTable[position];
+        });
+        return result;
+    }
+
+    /**
+     * Computes the status of a position the same way StandardRules does.
+     */
+    private static TicTacToeModel.GameStatus computeStatus(int position) {
+        for (int[] line : LINES) {
+            int first = cellAt(position, line[0]);
+            if (first != EMPTY && first == cellAt(position, line[1]) && first == cellAt(position, line[2])) {
+                return first == X ? TicTacToeModel.GameStatus.X_WINS : TicTacToeModel.GameStatus.O_WINS;
+            }
+        }
+        return emptyCells(position) == 0 ? TicTacToeModel.GameStatus.DRAW : TicTacToeModel.GameStatus.PLAYING;
+    }
+
+    private static int winnerOf(TicTacToeModel.GameStatus status) {
+        switch (status) {
+            case X_WINS:
+                return X;
+            case O_WINS:
+                return O;
+            default:
+                return EMPTY;
+        }
+    }
+
+    /**
+     * X moves whenever it has not placed more symbols than O, as in a game started by X.
+     */
+    private static int playerToMove(int position) {
+        int xCount = 0;
+        int oCount = 0;
+        for (int cell = 0; cell < CELLS; cell++) {
+            int code = cellAt(position, cell);
+            if (code == X) {
+                xCount++;
+            } else if (code == O) {
+                oCount++;
+            }
+        }
+        return xCount <= oCount ? X : O;
+    }
+
+    private static int emptyCells(int position) {
+        int count = 0;
+        for (int cell = 0; cell < CELLS; cell++) {
+            if (cellAt(position, cell) == EMPTY) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int cellAt(int position, int cell) {
+        return (position >>> (2 * cell)) & 3;
+    }
+
+    private static boolean isValid(int position) {
+        // No bits outside the board, and no cell with both bits set
+        return (position >>> (2 * CELLS)) == 0 && (position & (position >>> 1) & 0x15555) == 0;
+    }
+
+    private static void checkPosition(int position, int index) {
+        if (!isValid(position)) {
+            throw new IllegalArgumentException("Invalid packed position " + position + " at index " + index);
+        }
+    }
+}
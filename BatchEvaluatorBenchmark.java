@@ -0,0 +1,91 @@
+// BatchEvaluatorBenchmark.java
+import java.util.Random;
+
+/**
+ * Compares BatchEvaluator against evaluating each position through its own TicTacToeModel.
+ * Positions come from random games stopped at a random move, so every one is reachable.
+ */
+public class BatchEvaluatorBenchmark {
+    private static final int DEFAULT_POSITIONS = 2_000_000;
+    private static final int ROUNDS = 5;
+
+    /**
+     * Main method to run the benchmark.
+     * @param args Optional number of positions to evaluate.
+     */
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_POSITIONS;
+        Random random = new Random(42);
+        int[] positions = new int[count];
+        int[][] moveSequences = new int[count][];
+        for (int i = 0; i < count; i++) {
+            moveSequences[i] = randomGame(random);
+            positions[i] = encodeSequence(moveSequences[i]);
+        }
+
+        // The first batch call also builds the lookup tables; report that separately
+        long start = System.nanoTime();
+        BatchEvaluator.status(0);
+        System.out.println("Table build: " + (System.nanoTime() - start) / 1_000_000 + " ms");
+
+        for (int round = 1; round <= ROUNDS; round++) {
+            start = System.nanoTime();
+            BatchEvaluator.Result result = BatchEvaluator.evaluate(positions);
+            long batchNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            TicTacToeModel.GameStatus[] perObject = evaluatePerObject(moveSequences);
+            long perObjectNanos = System.nanoTime() - start;
+
+            for (int i = 0; i < count; i++) {
+                if (result.getStatus(i) != perObject[i]) {
+                    throw new IllegalStateException("Status mismatch at index " + i);
+                }
+            }
+
+            System.out.println("Round " + round + ": batch " + batchNanos / 1_000_000 + " ms, per-object "
+                    + perObjectNanos / 1_000_000 + " ms for " + count + " positions");
+        }
+    }
+
+    private static TicTacToeModel.GameStatus[] evaluatePerObject(int[][] moveSequences) {
+        TicTacToeModel.GameStatus[] statuses = new TicTacToeModel.GameStatus[moveSequences.length];
+        for (int i = 0; i < moveSequences.length; i++) {
+            TicTacToeModel model = new TicTacToeModel();
+            for (int cell : moveSequences[i]) {
+                model.makeMove(cell / 3, cell % 3);
+            }
+            statuses[i] = model.getGameStatus();
+        }
+        return statuses;
+    }
+
+    /**
+     * Plays random legal moves and stops at a random point or when the game ends.
+     */
+    private static int[] randomGame(Random random) {
+        TicTacToeModel model = new TicTacToeModel();
+        int[] cells = {0, 1, 2, 3, 4, 5, 6, 7, 8};
+        int length = random.nextInt(10);
+        int played = 0;
+        while (played < length && model.getGameStatus() == TicTacToeModel.GameStatus.PLAYING) {
+            int pick = played + random.nextInt(9 - played);
+            int cell = cells[pick];
+            cells[pick] = cells[played];
+            cells[played] = cell;
+            model.makeMove(cell / 3, cell % 3);
+            played++;
+        }
+        int[] sequence = new int[played];
+        System.arraycopy(cells, 0, sequence, 0, played);
+        return sequence;
+    }
+
+    private static int encodeSequence(int[] sequence) {
+        int position = 0;
+        for (int i = 0; i < sequence.length; i++) {
+            position |= ((i % 2 == 0) ? 1 : 2) << (2 * sequence[i]);
+        }
+        return position;
+    }
+}
@@ -0,0 +1,166 @@
+// BroadcastLoadTest.java
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Load test for GameBroadcaster.
+ * A game thread plays random games while thousands of local subscribers, shared across a few
+ * polling threads, follow along. Some subscribers are deliberately slow so that coalescing is exercised.
+ * Reports delivery latency, skipped deltas and the time the game thread spends publishing.
+ */
+public class BroadcastLoadTest {
+    private static final int DEFAULT_SUBSCRIBERS = 5000;
+    private static final int DEFAULT_MOVES = 20_000;
+    private static final int RING_CAPACITY = 1024;
+    private static final long MOVE_INTERVAL_NANOS = 50_000;
+    // Latency histogram resolution and range
+    private static final int BUCKET_MICROS = 1;
+    private static final int BUCKETS = 1_000_000;
+
+    /**
+     * Main method to run the load test.
+     * @param args Optional number of subscribers and number of moves.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int subscriberCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SUBSCRIBERS;
+        int moveCount = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_MOVES;
+        int pollerCount = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+
+        TicTacToeModel model = new TicTacToeModel();
+        GameBroadcaster broadcaster = new GameBroadcaster(RING_CAPACITY);
+        model.addGameListener(broadcaster);
+
+        // Publish time of every sequence number; resets get one too
+        AtomicLongArray publishTimes = new AtomicLongArray(moveCount * 2 + 2);
+        Poller[] pollers = new Poller[pollerCount];
+        for (int p = 0; p < pollerCount; p++) {
+            pollers[p] = new Poller(publishTimes);
+        }
+        for (int s = 0; s < subscriberCount; s++) {
+            // Every tenth subscriber only checks in occasionally
+            pollers[s % pollerCount].add(broadcaster.subscribe(), s % 10 == 0 ? 200 : 1);
+        }
+        for (Poller poller : pollers) {
+            poller.start();
+        }
+
+        Random random = new Random(7);
+        long publishNanos = 0;
+        long maxPublishNanos = 0;
+        for (int i = 0; i < moveCount; i++) {
+            if (model.getGameStatus() != TicTacToeModel.GameStatus.PLAYING) {
+                publishTimes.set((int) broadcaster.getPublishedCount(), System.nanoTime());
+                model.initializeGame();
+            }
+            int row;
+            int col;
+            do {
+                row = random.nextInt(3);
+                col = random.nextInt(3);
+            } while (model.getCell(row, col) != ' ');
+
+            long start = System.nanoTime();
+            publishTimes.set((int) broadcaster.getPublishedCount(), start);
+            model.makeMove(row, col);
+            long elapsed = System.nanoTime() - start;
+            publishNanos += elapsed;
+            maxPublishNanos = Math.max(maxPublishNanos, elapsed);
+
+            LockSupport.parkNanos(MOVE_INTERVAL_NANOS);
+        }
+
+        // Let every subscriber drain the tail, then stop
+        Thread.sleep(500);
+        for (Poller poller : pollers) {
+            poller.running = false;
+        }
+        long[] histogram = new long[BUCKETS];
+        long delivered = 0;
+        long coalesced = 0;
+        long skipped = 0;
+        for (Poller poller : pollers) {
+            poller.join();
+            for (int b = 0; b < BUCKETS; b++) {
+                histogram[b] += poller.histogram[b];
+            }
+            delivered += poller.delivered;
+            coalesced += poller.coalesced;
+            for (GameBroadcaster.Subscriber subscriber : poller.subscribers) {
+                skipped += subscriber.getSkippedCount();
+            }
+        }
+
+        System.out.println("Subscribers: " + subscriberCount + " on " + pollerCount + " polling threads");
+        System.out.println("Published:   " + broadcaster.getPublishedCount() + " deltas");
+        System.out.println("Delivered:   " + delivered + " (" + coalesced + " coalesced, " + skipped + " skipped)");
+        System.out.println("Publish:     avg " + publishNanos / moveCount + " ns, max " + maxPublishNanos / 1000 + " us");
+        System.out.println("Latency:     p50 " + percentile(histogram, delivered, 0.50) + " us, p99 "
+                + percentile(histogram, delivered, 0.99) + " us, p99.9 "
+                + percentile(histogram, delivered, 0.999) + " us");
+    }
+
+    private static long percentile(long[] histogram, long total, double fraction) {
+        long target = (long) Math.ceil(total * fraction);
+        long seen = 0;
+        for (int b = 0; b < histogram.length; b++) {
+            seen += histogram[b];
+            if (seen >= target) {
+                return (long) b * BUCKET_MICROS;
+            }
+        }
+        return (long) histogram.length * BUCKET_MICROS;
+    }
+
+    /**
+     * Polls a share of the subscribers in a loop and records delivery latency.
+     */
+    private static class Poller extends Thread {
+        private final AtomicLongArray publishTimes;
+        private final List<GameBroadcaster.Subscriber> subscribers = new ArrayList<>();
+        private final List<Integer> pollEvery = new ArrayList<>();
+        private final long[] histogram = new long[BUCKETS];
+        private volatile boolean running = true;
+        private long delivered;
+        private long coalesced;
+
+        Poller(AtomicLongArray publishTimes) {
+            this.publishTimes = publishTimes;
+            setDaemon(true);
+        }
+
+        void add(GameBroadcaster.Subscriber subscriber, int every) {
+            subscribers.add(subscriber);
+            pollEvery.add(every);
+        }
+
+        @Override
+        public void run() {
+            int size = subscribers.size();
+            int[] every = pollEvery.stream().mapToInt(Integer::intValue).toArray();
+            long pass = 0;
+            while (running) {
+                for (int i = 0; i < size; i++) {
+                    if (pass % every[i] != 0) {
+                        continue;
+                    }
+                    GameBroadcaster.Subscriber subscriber = subscribers.get(i);
+                    long delta;
+                    while ((delta = subscriber.poll()) != GameBroadcaster.NONE) {
+                        long latencyMicros = (System.nanoTime()
+                                - publishTimes.get((int) GameBroadcaster.sequence(delta))) / 1000;
+                        histogram[(int) Math.min(latencyMicros / BUCKET_MICROS, BUCKETS - 1)]++;
+                        delivered++;
+                        if (GameBroadcaster.isCoalesced(delta)) {
+                            coalesced++;
+                        }
+                    }
+                }
+                pass++;
+                Thread.onSpinWait();
+            }
+        }
+    }
+}
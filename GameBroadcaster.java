@@ -0,0 +1,199 @@
+// GameBroadcaster.java
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fans out live game updates to any number of spectators.
+ *
+ * Every move or reset is published as a compact delta (a single long) into a fixed-size
+ * ring buffer. Publishing never blocks and never waits for subscribers: each subscriber
+ * polls with its own cursor, and one that falls a full buffer behind skips ahead to the
+ * latest delta, which carries the whole board, instead of holding up the game.
+ *
+ * Delta layout:
+ * bits 0-17 packed board (see BatchEvaluator), bits 18-21 cell (row * 3 + col, or NO_CELL for a reset),
+ * bits 22-23 symbol placed (1 = 'X', 2 = 'O'), bits 24-25 GameStatus ordinal, bits 26-29 move number,
+ * bit 30 coalesced flag, bits 32-63 sequence number.
+ */
+class GameBroadcaster implements GameListener {
+    /** Returned by Subscriber.poll() when no new delta is available. */
+    public static final long NONE = -1L;
+    /** Cell value of a delta produced by a reset. */
+    public static final int NO_CELL = 15;
+
+    private static final long COALESCED_BIT = 1L << 30;
+
+    private final AtomicLongArray ring;
+    private final int mask;
+    // Number of deltas published so far, i.e. the sequence of the next delta
+    private final AtomicLong published = new AtomicLong();
+
+    /**
+     * Creates a broadcaster.
+     * @param capacity The ring buffer size; must be a power of two.
+     */
+    public GameBroadcaster(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two, got " + capacity);
+        }
+        this.ring = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+    }
+
+    @Override
+    public void moveMade(TicTacToeModel model, Move move) {
+        int cell = move.getRow() * 3 + move.getCol();
+        int moves = model.getGameHistory().getTotalMoves();
+        publish(model, cell, move.getPlayer() == 'X' ? 1 : 2, moves);
+    }
+
+    @Override
+    public void gameReset(TicTacToeModel model) {
+        publish(model, NO_CELL, 0, 0);
+    }
+
+    /**
+     * Publishes a delta. Only one thread (the game thread) may publish.
+     */
+    private void publish(TicTacToeModel model, int cell, int player, int moves) {
+        long sequence = published.get();
+        long delta = (sequence << 32)
+                | ((long) moves << 26)
+                | ((long) model.getGameStatus().ordinal() << 24)
+                | ((long) player << 22)
+                | ((long) cell << 18)
+                | BatchEvaluator.encode(model);
+        ring.set((int) (sequence & mask), delta);
+        published.set(sequence + 1);
+    }
+
+    /**
+     * Gets the number of deltas published so far.
+     * @return The sequence number the next delta will get.
+     */
+    public long getPublishedCount() {
+        return published.get();
+    }
+
+    /**
+     * Creates a subscriber that starts with the next published delta.
+     * @return The new subscriber.
+     */
+    public Subscriber subscribe() {
+        return new Subscriber(published.get());
+    }
+
+    /**
+     * A spectator's cursor into the broadcast. A single subscriber must be polled by one thread at a time.
+     */
+    public class Subscriber {
+        private long next;
+        private long skipped;
+
+        private Subscriber(long next) {
+            this.next = next;
+        }
+
+        /**
+         * Gets the next delta for this subscriber.
+         * If the subscriber has been lapped, the deltas it missed are skipped and the latest
+         * one is returned with its coalesced flag set.
+         * @return The next delta, or NONE if nothing new has been published.
+         */
+        public long poll() {
+            while (true) {
+                long available = published.get();
+                if (next >= available) {
+                    return NONE;
+                }
+                boolean coalesced = false;
+                if (available - next > mask) {
+                    // Lapped: jump to the newest delta, which carries the full board
+                    skipped += available - 1 - next;
+                    next = available - 1;
+                    coalesced = true;
+                }
+                long delta = ring.get((int) (next & mask));
+                // The writer stores a slot before advancing published, so the slot is only
+                // safe if it could not have been reused while we were reading it
+                if (published.get() - next > mask) {
+                    continue;
+                }
+                next++;
+                return coalesced ? delta | COALESCED_BIT : delta;
+            }
+        }
+
+        /**
+         * Gets the number of deltas this subscriber skipped because it fell behind.
+         * @return The number of skipped deltas.
+         */
+        public long getSkippedCount() {
+            return skipped;
+        }
+    }
+
+    /**
+     * Gets the sequence number of a delta.
+     * @param delta The delta.
+     * @return The sequence number.
+     */
+    public static long sequence(long delta) {
+        return delta >>> 32;
+    }
+
+    /**
+     * Gets the packed board carried by a delta.
+     * @param delta The delta.
+     * @return The board, packed as for BatchEvaluator.
+     */
+    public static int board(long delta) {
+        return (int) (delta & 0x3FFFF);
+    }
+
+    /**
+     * Gets the cell that was played.
+     * @param delta The delta.
+     * @return The cell index (row * 3 + col), or NO_CELL for a reset.
+     */
+    public static int cell(long delta) {
+        return (int) ((delta >>> 18) & 0xF);
+    }
+
+    /**
+     * Gets the symbol that was placed, which is the mover's own symbol except in variants such as Wild.
+     * @param delta The delta.
+     * @return 'X', 'O', or ' ' for a reset.
+     */
+    public static char symbol(long delta) {
+        int code = (int) ((delta >>> 22) & 3);
+        return code == 1 ? 'X' : code == 2 ? 'O' : ' ';
+    }
+
+    /**
+     * Gets the game status after the move.
+     * @param delta The delta.
+     * @return The game status.
+     */
+    public static TicTacToeModel.GameStatus status(long delta) {
+        return TicTacToeModel.GameStatus.values()[(int) ((delta >>> 24) & 3)];
+    }
+
+    /**
+     * Gets the number of moves made in the game so far.
+     * @param delta The delta.
+     * @return The move number.
+     */
+    public static int moveNumber(long delta) {
+        return (int) ((delta >>> 26) & 0xF);
+    }
+
+    /**
+     * Checks whether earlier deltas were skipped before this one.
+     * @param delta The delta.
+     * @return True if the subscriber missed deltas and this one is the latest state.
+     */
+    public static boolean isCoalesced(long delta) {
+        return (delta & COALESCED_BIT) != 0;
+    }
+}
@@ -0,0 +1,19 @@
+// GameListener.java
+/**
+ * Receives notifications about changes to a TicTacToeModel.
+ * Listeners are called on the thread that changes the model, so they must return quickly.
+ */
+interface GameListener {
+    /**
+     * Called after a move has been placed and the game status updated.
+     * @param model The model the move was made on.
+     * @param move The move that was made.
+     */
+    void moveMade(TicTacToeModel model, Move move);
+
+    /**
+     * Called after the model has been reset for a new game.
+     * @param model The model that was reset.
+     */
+    void gameReset(TicTacToeModel model);
+}
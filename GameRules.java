@@ -0,0 +1,88 @@
+// GameRules.java
+/**
+ * The rules a TicTacToeModel plays by.
+ * Implementations are stateless; the model holds a single instance for the whole game,
+ * so each call site only ever sees one rules class and the JIT can inline it.
+ */
+interface GameRules {
+    /**
+     * Determines the game status after a move.
+     * @param board The board after the move, indexed [row][col].
+     * @param player The player who made the move ('X' or 'O').
+     * @return The new game status.
+     */
+    TicTacToeModel.GameStatus checkGameStatus(char[][] board, char player);
+
+    /**
+     * Checks whether a player may place a symbol.
+     * @param player The player to move ('X' or 'O').
+     * @param symbol The symbol to place.
+     * @return True if the player may place the symbol.
+     */
+    boolean canPlace(char player, char symbol);
+
+    /**
+     * Gets the player who moves after the given one.
+     * @param player The player who just moved.
+     * @return The next player.
+     */
+    default char nextPlayer(char player) {
+        return (player == 'X') ? 'O' : 'X';
+    }
+
+    /**
+     * Finds a completed line of three identical symbols.
+     * Rows are checked first, then columns, then the two diagonals.
+     * @param board The board, indexed [row][col].
+     * @return The symbol of the first completed line, or ' ' if there is none.
+     */
+    static char findLine(char[][] board) {
+        // Check rows
+        for (int i = 0; i < 3; i++) {
+            if (board[i][0] != ' ' && board[i][0] == board[i][1] && board[i][1] == board[i][2]) {
+                return board[i][0];
+            }
+        }
+
+        // Check columns
+        for (int j = 0; j < 3; j++) {
+            if (board[0][j] != ' ' && board[0][j] == board[1][j] && board[1][j] == board[2][j]) {
+                return board[0][j];
+            }
+        }
+
+        // Check diagonals
+        if (board[0][0] != ' ' && board[0][0] == board[1][1] && board[1][1] == board[2][2]) {
+            return board[0][0];
+        }
+        if (board[0][2] != ' ' && board[0][2] == board[1][1] && board[1][1] == board[2][0]) {
+            return board[0][2];
+        }
+        return ' ';
+    }
+
+    /**
+     * Checks whether every cell is occupied.
+     * @param board The board, indexed [row][col].
+     * @return True if the board is full.
+     */
+    static boolean isBoardFull(char[][] board) {
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 3; j++) {
+                if (board[i][j] == ' ') {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the status in which the given player has won.
+     * @param player The winning player ('X' or 'O').
+     * @return X_WINS or O_WINS.
+     */
+    static TicTacToeModel.GameStatus winFor(char player) {
+        return player == 'X' ? TicTacToeModel.GameStatus.X_WINS : TicTacToeModel.GameStatus.O_WINS;
+    }
+}
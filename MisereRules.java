@@ -0,0 +1,18 @@
+// MisereRules.java
+/**
+ * Misere Tic-Tac-Toe: the player who completes a line of their own symbol loses.
+ */
+final class MisereRules implements GameRules {
+    @Override
+    public TicTacToeModel.GameStatus checkGameStatus(char[][] board, char player) {
+        if (GameRules.findLine(board) != ' ') {
+            return GameRules.winFor(player == 'X' ? 'O' : 'X');
+        }
+        return GameRules.isBoardFull(board) ? TicTacToeModel.GameStatus.DRAW : TicTacToeModel.GameStatus.PLAYING;
+    }
+
+    @Override
+    public boolean canPlace(char player, char symbol) {
+        return symbol == player;
+    }
+}
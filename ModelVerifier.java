@@ -0,0 +1,401 @@
+// ModelVerifier.java
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+/**
+ * Checks that TicTacToeModel and GameHistory behave exactly as the rules say.
+ *
+ * Every move sequence is played through a fresh model and, after each move, the status and
+ * current player are compared with an independent bitmask reference implementation.
+ * At the end of each game the GameHistory is replayed forwards and backwards and must
+ * reproduce the final board, and replaying its moves into a new model must reproduce the status.
+ *
+ * Two modes run by default:
+ * exhaustive - every complete standard game (255,168 sequences), split across cores by opening moves;
+ * fuzz - random sequences under every rule variant, mixed with invalid moves that must be rejected.
+ */
+public class ModelVerifier {
+    private static final int DEFAULT_FUZZ_GAMES = 200_000;
+    private static final int EXPECTED_GAMES = 255_168;
+    private static final int EXPECTED_X_WINS = 131_184;
+    private static final int EXPECTED_O_WINS = 77_904;
+    private static final int EXPECTED_DRAWS = 46_080;
+
+    // Winning lines as bitmasks over cell index row * 3 + col
+    private static final int[] LINE_MASKS = {
+        0b000_000_111, 0b000_111_000, 0b111_000_000,
+        0b001_001_001, 0b010_010_010, 0b100_100_100,
+        0b100_010_001, 0b001_010_100
+    };
+    private static final int FULL = 0b111_111_111;
+
+    private static final String[] VARIANTS = {"standard", "misere", "wild", "order-and-chaos"};
+
+    private final AtomicReference<String> firstFailure = new AtomicReference<>();
+
+    /**
+     * Main method to run the verification.
+     * @param args Optional mode (exhaustive, fuzz or all), number of fuzz games, and fuzz seed.
+     */
+    public static void main(String[] args) {
+        String mode = args.length > 0 ? args[0] : "all";
+        int fuzzGames = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_FUZZ_GAMES;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : System.nanoTime();
+
+        ModelVerifier verifier = new ModelVerifier();
+        if (mode.equals("exhaustive") || mode.equals("all")) {
+            verifier.runExhaustive();
+        }
+        if (mode.equals("fuzz") || mode.equals("all")) {
+            verifier.runFuzz(fuzzGames, seed);
+        }
+
+        String failure = verifier.firstFailure.get();
+        if (failure != null) {
+            System.err.println("FAILED: " + failure);
+            System.exit(1);
+        }
+        System.out.println("All checks passed.");
+    }
+
+    /**
+     * Plays every complete standard game, one parallel task per pair of opening moves.
+     */
+    private void runExhaustive() {
+        LongAdder games = new LongAdder();
+        LongAdder xWins = new LongAdder();
+        LongAdder oWins = new LongAdder();
+        LongAdder draws = new LongAdder();
+
+        long start = System.nanoTime();
+        IntStream.range(0, 81).parallel().forEach(opening -> {
+            int first = opening / 9;
+            int second = opening % 9;
+            if (first == second) {
+                return;
+            }
+            int[] sequence = new int[9];
+            sequence[0] = first;
+            sequence[1] = second;
+            int xMask = 1 << first;
+            int oMask = 1 << second;
+            enumerate(sequence, 2, xMask, oMask, games, xWins, oWins, draws);
+        });
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.println("Exhaustive: " + games.sum() + " games (" + xWins.sum() + " X wins, " + oWins.sum()
+                + " O wins, " + draws.sum() + " draws) in " + elapsedMillis + " ms");
+        if (games.sum() != EXPECTED_GAMES || xWins.sum() != EXPECTED_X_WINS
+                || oWins.sum() != EXPECTED_O_WINS || draws.sum() != EXPECTED_DRAWS) {
+            fail("Exhaustive game counts differ from the known totals " + EXPECTED_GAMES + " / "
+                    + EXPECTED_X_WINS + " / " + EXPECTED_O_WINS + " / " + EXPECTED_DRAWS);
+        }
+    }
+
+    private void enumerate(int[] sequence, int length, int xMask, int oMask,
+                           LongAdder games, LongAdder xWins, LongAdder oWins, LongAdder draws) {
+        char mover = (length % 2 == 1) ? 'X' : 'O';
+        TicTacToeModel.GameStatus status = referenceStatus(xMask, oMask, new StandardRules(), mover);
+        if (status != TicTacToeModel.GameStatus.PLAYING) {
+            games.increment();
+            if (status == TicTacToeModel.GameStatus.X_WINS) {
+                xWins.increment();
+            } else if (status == TicTacToeModel.GameStatus.O_WINS) {
+                oWins.increment();
+            } else {
+                draws.increment();
+            }
+            char[] symbols = new char[length];
+            for (int i = 0; i < length; i++) {
+                symbols[i] = (i % 2 == 0) ? 'X' : 'O';
+            }
+            verifyGame(new StandardRules(), sequence, symbols, length, null);
+            return;
+        }
+        boolean xToMove = length % 2 == 0;
+        for (int cell = 0; cell < 9; cell++) {
+            int bit = 1 << cell;
+            if (((xMask | oMask) & bit) == 0) {
+                sequence[length] = cell;
+                if (xToMove) {
+                    enumerate(sequence, length + 1, xMask | bit, oMask, games, xWins, oWins, draws);
+                } else {
+                    enumerate(sequence, length + 1, xMask, oMask | bit, games, xWins, oWins, draws);
+                }
+            }
+        }
+    }
+
+    /**
+     * Plays random games under every variant, each task with its own deterministic seed.
+     */
+    private void runFuzz(int gameCount, long seed) {
+        long start = System.nanoTime();
+        IntStream.range(0, gameCount).parallel().forEach(g -> {
+            Random random = new Random(seed + g);
+            String variant = VARIANTS[g % VARIANTS.length];
+            GameRules rules = rulesFor(variant);
+            boolean anySymbol = rules.canPlace('X', 'O');
+
+            int[] cells = {0, 1, 2, 3, 4, 5, 6, 7, 8};
+            for (int i = 8; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int cell = cells[i];
+                cells[i] = cells[j];
+                cells[j] = cell;
+            }
+            char[] symbols = new char[9];
+            for (int i = 0; i < 9; i++) {
+                symbols[i] = anySymbol && random.nextBoolean() ? 'O' : 'X';
+            }
+            // Sequences may run past the end of the game; the extra moves must be rejected
+            verifyGame(rules, cells, symbols, 9, random);
+        });
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        System.out.println("Fuzz: " + gameCount + " games across " + VARIANTS.length + " variants in "
+                + elapsedMillis + " ms (seed " + seed + ")");
+    }
+
+    /**
+     * Plays one sequence through a fresh model, checking it against the reference after every move,
+     * then verifies the recorded history.
+     * @param symbols The symbol for each move; for standard and misere the mover's own symbol is used.
+     * @param random If not null, invalid moves are interleaved and must be rejected without effect.
+     */
+    private void verifyGame(GameRules rules, int[] sequence, char[] symbols, int length, Random random) {
+        if (firstFailure.get() != null) {
+            return;
+        }
+        boolean anySymbol = rules.canPlace('X', 'O');
+        TicTacToeModel model = new TicTacToeModel(rules);
+        int xMask = 0;
+        int oMask = 0;
+        char player = 'X';
+        TicTacToeModel.GameStatus expected = TicTacToeModel.GameStatus.PLAYING;
+        int accepted = 0;
+
+        for (int i = 0; i < length; i++) {
+            if (random != null && random.nextInt(4) == 0) {
+                tryInvalidMove(model, random, xMask | oMask, player, anySymbol, describe(sequence, i));
+            }
+
+            int cell = sequence[i];
+            char symbol = anySymbol ? symbols[i] : player;
+            boolean placed = anySymbol
+                    ? model.makeMove(cell / 3, cell % 3, symbol)
+                    : model.makeMove(cell / 3, cell % 3);
+            boolean shouldPlace = expected == TicTacToeModel.GameStatus.PLAYING;
+            if (placed != shouldPlace) {
+                fail("makeMove returned " + placed + " after " + describe(sequence, i + 1));
+                return;
+            }
+            if (!placed) {
+                continue;
+            }
+            accepted++;
+            if (symbol == 'X') {
+                xMask |= 1 << cell;
+            } else {
+                oMask |= 1 << cell;
+            }
+            expected = referenceStatus(xMask, oMask, rules, player);
+            if (expected == TicTacToeModel.GameStatus.PLAYING) {
+                player = (player == 'X') ? 'O' : 'X';
+            }
+            if (model.getGameStatus() != expected || model.getCurrentPlayer() != player) {
+                fail("Model has " + model.getGameStatus() + "/" + model.getCurrentPlayer() + ", reference has "
+                        + expected + "/" + player + " after " + describe(sequence, i + 1));
+                return;
+            }
+        }
+
+        verifyHistory(model, rules, accepted, xMask, oMask, describe(sequence, length));
+    }
+
+    private void tryInvalidMove(TicTacToeModel model, Random random, int occupied, char player,
+                                boolean anySymbol, String context) {
+        int row;
+        int col;
+        char symbol = player;
+        int kind = random.nextInt(3);
+        if (kind == 0 && occupied != 0) {
+            // An occupied cell
+            int cell;
+            do {
+                cell = random.nextInt(9);
+            } while ((occupied & (1 << cell)) == 0);
+            row = cell / 3;
+            col = cell % 3;
+        } else if (kind == 1 && !anySymbol) {
+            // The opponent's symbol under rules that forbid it; any free cell will do
+            row = -1;
+            col = -1;
+            for (int cell = 0; cell < 9; cell++) {
+                if ((occupied & (1 << cell)) == 0) {
+                    row = cell / 3;
+                    col = cell % 3;
+                    break;
+                }
+            }
+            symbol = (player == 'X') ? 'O' : 'X';
+        } else {
+            // Off the board
+            row = random.nextBoolean() ? -1 - random.nextInt(3) : 3 + random.nextInt(3);
+            col = random.nextInt(3);
+        }
+
+        int before = BatchEvaluator.encode(model);
+        int movesBefore = model.getGameHistory().getTotalMoves();
+        TicTacToeModel.GameStatus statusBefore = model.getGameStatus();
+        if (model.makeMove(row, col, symbol)) {
+            fail("Invalid move " + symbol + " at (" + row + ", " + col + ") was accepted after " + context);
+            return;
+        }
+        if (BatchEvaluator.encode(model) != before || model.getGameHistory().getTotalMoves() != movesBefore
+                || model.getGameStatus() != statusBefore || model.getCurrentPlayer() != player) {
+            fail("Rejected move " + symbol + " at (" + row + ", " + col + ") changed the model after " + context);
+        }
+    }
+
+    /**
+     * Replays the history forwards and backwards and into a new model.
+     */
+    private void verifyHistory(TicTacToeModel model, GameRules rules, int accepted, int xMask, int oMask,
+                               String context) {
+        GameHistory history = model.getGameHistory();
+        if (history.getTotalMoves() != accepted) {
+            fail("History has " + history.getTotalMoves() + " moves, expected " + accepted + " for " + context);
+            return;
+        }
+
+        // Forwards: the replayed board must equal the final board
+        char[][] board = emptyBoard();
+        history.startReplay();
+        while (history.hasNextMove()) {
+            Move move = history.getNextMove();
+            board[move.getRow()][move.getCol()] = move.getPlayer();
+        }
+        if (BatchEvaluator.encode(board) != BatchEvaluator.encode(model) || encode(xMask, oMask) != BatchEvaluator.encode(board)) {
+            fail("Forward replay does not reproduce the final board for " + context);
+            return;
+        }
+
+        // Backwards: stepping back to the start must visit every move in reverse order
+        int steps = 0;
+        while (history.hasPreviousMove()) {
+            Move move = history.getPreviousMove();
+            if (board[move.getRow()][move.getCol()] != move.getPlayer()) {
+                fail("Backward replay returned a move that is not on the board for " + context);
+                return;
+            }
+            board[move.getRow()][move.getCol()] = ' ';
+            steps++;
+        }
+        if (steps != accepted || BatchEvaluator.encode(board) != 0) {
+            fail("Backward replay does not return to an empty board for " + context);
+            return;
+        }
+
+        // Into a new model: the recorded moves must be accepted again and give the same result
+        TicTacToeModel replayed = new TicTacToeModel(rules);
+        history.startReplay();
+        while (history.hasNextMove()) {
+            Move move = history.getNextMove();
+            if (!replayed.makeMove(move.getRow(), move.getCol(), move.getPlayer())) {
+                fail("Replaying " + move + " into a new model was rejected for " + context);
+                return;
+            }
+        }
+        if (replayed.getGameStatus() != model.getGameStatus()
+                || BatchEvaluator.encode(replayed) != BatchEvaluator.encode(model)) {
+            fail("Replaying the history into a new model gives a different result for " + context);
+        }
+    }
+
+    /**
+     * Reference status computed on bitmasks, independently of the model and GameRules.findLine.
+     * @param mover The player who made the last move.
+     */
+    private static TicTacToeModel.GameStatus referenceStatus(int xMask, int oMask, GameRules rules, char mover) {
+        boolean xLine = false;
+        boolean oLine = false;
+        for (int line : LINE_MASKS) {
+            xLine |= (xMask & line) == line;
+            oLine |= (oMask & line) == line;
+        }
+        boolean full = (xMask | oMask) == FULL;
+        boolean anyLine = xLine || oLine;
+        char other = (mover == 'X') ? 'O' : 'X';
+
+        if (rules instanceof MisereRules) {
+            return anyLine ? winFor(other) : full ? TicTacToeModel.GameStatus.DRAW : TicTacToeModel.GameStatus.PLAYING;
+        } else if (rules instanceof WildRules) {
+            return anyLine ? winFor(mover) : full ? TicTacToeModel.GameStatus.DRAW : TicTacToeModel.GameStatus.PLAYING;
+        } else if (rules instanceof OrderAndChaosRules) {
+            return anyLine ? TicTacToeModel.GameStatus.X_WINS
+                    : full ? TicTacToeModel.GameStatus.O_WINS : TicTacToeModel.GameStatus.PLAYING;
+        }
+        if (xLine) {
+            return TicTacToeModel.GameStatus.X_WINS;
+        }
+        if (oLine) {
+            return TicTacToeModel.GameStatus.O_WINS;
+        }
+        return full ? TicTacToeModel.GameStatus.DRAW : TicTacToeModel.GameStatus.PLAYING;
+    }
+
+    private static TicTacToeModel.GameStatus winFor(char player) {
+        return player == 'X' ? TicTacToeModel.GameStatus.X_WINS : TicTacToeModel.GameStatus.O_WINS;
+    }
+
+    private static GameRules rulesFor(String variant) {
+        switch (variant) {
+            case "standard":
+                return new StandardRules();
+            case "misere":
+                return new MisereRules();
+            case "wild":
+                return new WildRules();
+            case "order-and-chaos":
+                return new OrderAndChaosRules();
+            default:
+                throw new IllegalArgumentException("Unknown variant: " + variant);
+        }
+    }
+
+    private static char[][] emptyBoard() {
+        char[][] board = new char[3][3];
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 3; j++) {
+                board[i][j] = ' ';
+            }
+        }
+        return board;
+    }
+
+    private static int encode(int xMask, int oMask) {
+        int position = 0;
+        for (int cell = 0; cell < 9; cell++) {
+            if ((xMask & (1 << cell)) != 0) {
+                position |= 1 << (2 * cell);
+            } else if ((oMask & (1 << cell)) != 0) {
+                position |= 2 << (2 * cell);
+            }
+        }
+        return position;
+    }
+
+    private static String describe(int[] sequence, int length) {
+        StringBuilder builder = new StringBuilder("cells [");
+        for (int i = 0; i < length; i++) {
+            builder.append(i == 0 ? "" : ", ").append(sequence[i]);
+        }
+        return builder.append(']').toString();
+    }
+
+    private void fail(String message) {
+        firstFailure.compareAndSet(null, message);
+    }
+}
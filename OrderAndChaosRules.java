@@ -0,0 +1,20 @@
+// OrderAndChaosRules.java
+/**
+ * Order and Chaos on a 3x3 board: player X plays Order and player O plays Chaos.
+ * Both may place either symbol. Order wins as soon as any line of three identical
+ * symbols appears; Chaos wins if the board fills up without one. There are no draws.
+ */
+final class OrderAndChaosRules implements GameRules {
+    @Override
+    public TicTacToeModel.GameStatus checkGameStatus(char[][] board, char player) {
+        if (GameRules.findLine(board) != ' ') {
+            return TicTacToeModel.GameStatus.X_WINS;
+        }
+        return GameRules.isBoardFull(board) ? TicTacToeModel.GameStatus.O_WINS : TicTacToeModel.GameStatus.PLAYING;
+    }
+
+    @Override
+    public boolean canPlace(char player, char symbol) {
+        return symbol == 'X' || symbol == 'O';
+    }
+}
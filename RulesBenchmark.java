@@ -0,0 +1,107 @@
+// RulesBenchmark.java
+import java.util.Random;
+
+/**
+ * Measures the cost of playing games through TicTacToeModel under each rule variant.
+ * Run one variant per JVM (the default is standard), so the rules call sites stay monomorphic
+ * exactly as they are in a real game and the JIT can inline them:
+ *
+ *   java RulesBenchmark standard
+ *   java RulesBenchmark misere
+ *   java RulesBenchmark wild
+ *   java RulesBenchmark order-and-chaos
+ *
+ * Passing "all" runs every variant in one JVM, which shows the cost of a megamorphic call site.
+ */
+public class RulesBenchmark {
+    private static final int GAMES = 200_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int ROUNDS = 5;
+
+    /**
+     * Main method to run the benchmark.
+     * @param args The variant to measure: standard, misere, wild, order-and-chaos or all.
+     */
+    public static void main(String[] args) {
+        String variant = args.length > 0 ? args[0] : "standard";
+
+        // Pre-generate move orders and symbols so the timed loop only exercises the model
+        Random random = new Random(11);
+        int[][] cellOrders = new int[GAMES][];
+        char[][] symbols = new char[GAMES][9];
+        for (int g = 0; g < GAMES; g++) {
+            int[] cells = {0, 1, 2, 3, 4, 5, 6, 7, 8};
+            for (int i = 8; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int cell = cells[i];
+                cells[i] = cells[j];
+                cells[j] = cell;
+            }
+            cellOrders[g] = cells;
+            for (int i = 0; i < 9; i++) {
+                symbols[g][i] = random.nextBoolean() ? 'X' : 'O';
+            }
+        }
+
+        if (variant.equals("all")) {
+            for (String name : new String[] {"standard", "misere", "wild", "order-and-chaos"}) {
+                run(name, cellOrders, symbols);
+            }
+        } else {
+            run(variant, cellOrders, symbols);
+        }
+    }
+
+    private static void run(String variant, int[][] cellOrders, char[][] symbols) {
+        TicTacToeModel model = new TicTacToeModel(rulesFor(variant));
+        // Standard and misere only accept the mover's own symbol
+        boolean anySymbol = model.getRules().canPlace('X', 'O');
+
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            playAll(model, cellOrders, symbols, anySymbol);
+        }
+
+        long bestNanos = Long.MAX_VALUE;
+        long moves = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            moves = playAll(model, cellOrders, symbols, anySymbol);
+            bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+        }
+        System.out.printf("%-16s %6.1f ns/move (%d games, %d moves, best of %d)%n",
+                variant, (double) bestNanos / moves, cellOrders.length, moves, ROUNDS);
+    }
+
+    private static long playAll(TicTacToeModel model, int[][] cellOrders, char[][] symbols, boolean anySymbol) {
+        long moves = 0;
+        for (int g = 0; g < cellOrders.length; g++) {
+            model.initializeGame();
+            int[] cells = cellOrders[g];
+            for (int i = 0; i < 9 && model.getGameStatus() == TicTacToeModel.GameStatus.PLAYING; i++) {
+                int cell = cells[i];
+                if (anySymbol) {
+                    model.makeMove(cell / 3, cell % 3, symbols[g][i]);
+                } else {
+                    model.makeMove(cell / 3, cell % 3);
+                }
+                moves++;
+            }
+        }
+        return moves;
+    }
+
+    private static GameRules rulesFor(String variant) {
+        switch (variant) {
+            case "standard":
+                return new StandardRules();
+            case "misere":
+                return new MisereRules();
+            case "wild":
+                return new WildRules();
+            case "order-and-chaos":
+                return new OrderAndChaosRules();
+            default:
+                throw new IllegalArgumentException("Unknown variant: " + variant);
+        }
+    }
+}
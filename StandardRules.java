@@ -0,0 +1,20 @@
+// StandardRules.java
+/**
+ * Standard Tic-Tac-Toe: players alternate placing their own symbol,
+ * the first to complete a line wins, and a full board is a draw.
+ */
+final class StandardRules implements GameRules {
+    @Override
+    public TicTacToeModel.GameStatus checkGameStatus(char[][] board, char player) {
+        char line = GameRules.findLine(board);
+        if (line != ' ') {
+            return GameRules.winFor(line);
+        }
+        return GameRules.isBoardFull(board) ? TicTacToeModel.GameStatus.DRAW : TicTacToeModel.GameStatus.PLAYING;
+    }
+
+    @Override
+    public boolean canPlace(char player, char symbol) {
+        return symbol == player;
+    }
+}
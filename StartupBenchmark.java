@@ -0,0 +1,73 @@
+// StartupBenchmark.java
+import java.awt.GraphicsEnvironment;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.swing.SwingUtilities;
+
+/**
+ * Measures cold-start time of the Swing client.
+ * Reports time-to-first-frame (JVM start until the window is opened) and
+ * time-to-first-move (JVM start until a click on the board has updated the model).
+ * Also used as the training run when building the class-data sharing archive (see launch.sh).
+ */
+public class StartupBenchmark {
+
+    /**
+     * Main method to run the benchmark.
+     * @param args Command line arguments (not used).
+     */
+    public static void main(String[] args) throws Exception {
+        if (GraphicsEnvironment.isHeadless()) {
+            System.err.println("Startup benchmark needs a display.");
+            System.exit(1);
+        }
+
+        long jvmStartMillis = ManagementFactory.getRuntimeMXBean().getStartTime();
+        CountDownLatch firstFrame = new CountDownLatch(1);
+        CountDownLatch firstMove = new CountDownLatch(1);
+        long[] frameMillis = new long[1];
+        long[] moveMillis = new long[1];
+        TicTacToeView[] viewHolder = new TicTacToeView[1];
+
+        SwingUtilities.invokeLater(() -> {
+            TicTacToeModel model = new TicTacToeModel();
+            TicTacToeView view = new TicTacToeView();
+            viewHolder[0] = view;
+            new TicTacToeController(model, view);
+
+            view.addWindowListener(new WindowAdapter() {
+                @Override
+                public void windowOpened(WindowEvent e) {
+                    frameMillis[0] = System.currentTimeMillis();
+                    firstFrame.countDown();
+                    // Queue the first move behind the initial paint, as a user click would be
+                    SwingUtilities.invokeLater(() -> {
+                        view.clickCell(1, 1);
+                        if (model.getCell(1, 1) == 'X') {
+                            moveMillis[0] = System.currentTimeMillis();
+                        }
+                        firstMove.countDown();
+                    });
+                }
+            });
+        });
+
+        if (!firstFrame.await(60, TimeUnit.SECONDS) || !firstMove.await(60, TimeUnit.SECONDS)) {
+            System.err.println("Startup benchmark timed out.");
+            System.exit(1);
+        }
+
+        System.out.println("Time to first frame: " + (frameMillis[0] - jvmStartMillis) + " ms");
+        if (moveMillis[0] == 0) {
+            System.err.println("First move was not applied to the model.");
+            System.exit(1);
+        }
+        System.out.println("Time to first move:  " + (moveMillis[0] - jvmStartMillis) + " ms");
+
+        SwingUtilities.invokeAndWait(() -> viewHolder[0].dispose());
+        System.exit(0);
+    }
+}
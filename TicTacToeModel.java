@@ -1,7 +1,7 @@
 
 // TicTacToeModel.java
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * The Model in the MVC pattern for the Tic-Tac-Toe game.
@@ -12,6 +12,8 @@ public class TicTacToeModel {
     private char currentPlayer;
     private GameStatus gameStatus;
     private GameHistory gameHistory; // Reference to the game history
+    private final GameRules rules;
+    private final List<GameListener> listeners = new CopyOnWriteArrayList<>();
 
     public enum GameStatus {
         PLAYING,
@@ -21,9 +23,18 @@ public class TicTacToeModel {
     }
 
     /**
-     * Constructor to initialize the game board and state.
+     * Constructor to initialize the game board and state with standard rules.
      */
     public TicTacToeModel() {
+        this(new StandardRules());
+    }
+
+    /**
+     * Constructor to initialize the game board and state with the given rules.
+     * @param rules The rules to play by.
+     */
+    public TicTacToeModel(GameRules rules) {
+        this.rules = rules;
         initializeGame();
     }
 
@@ -40,92 +51,61 @@ public class TicTacToeModel {
         currentPlayer = 'X';
         gameStatus = GameStatus.PLAYING;
         gameHistory = new GameHistory(); // Initialize new history for each game
+        for (GameListener listener : listeners) {
+            listener.gameReset(this);
+        }
     }
 
     /**
-     * Places a move on the board if valid.
+     * Places the current player's own symbol on the board if valid.
      * @param row The row for the move.
      * @param col The column for the move.
      * @return True if the move was successfully placed, false otherwise (e.g., cell already taken).
      */
     public boolean makeMove(int row, int col) {
-        if (row < 0 || row >= 3 || col < 0 || col >= 3 || board[row][col] != ' ' || gameStatus != GameStatus.PLAYING) {
+        return makeMove(row, col, currentPlayer);
+    }
+
+    /**
+     * Places a symbol on the board if valid.
+     * Variants such as Wild allow a player to place the other player's symbol.
+     * @param row The row for the move.
+     * @param col The column for the move.
+     * @param symbol The symbol to place ('X' or 'O').
+     * @return True if the move was successfully placed, false otherwise (e.g., cell already taken or symbol not allowed).
+     */
+    public boolean makeMove(int row, int col, char symbol) {
+        if (row < 0 || row >= 3 || col < 0 || col >= 3 || board[row][col] != ' ' || gameStatus != GameStatus.PLAYING
+                || !rules.canPlace(currentPlayer, symbol)) {
             return false; // Invalid move
         }
 
-        board[row][col] = currentPlayer;
-        gameHistory.addMove(new Move(row, col, currentPlayer)); // Record the move
-        checkGameStatus();
+        board[row][col] = symbol;
+        Move move = new Move(row, col, symbol);
+        gameHistory.addMove(move); // Record the move
+        checkGameStatus(currentPlayer);
         if (gameStatus == GameStatus.PLAYING) {
             switchPlayer();
         }
+        for (GameListener listener : listeners) {
+            listener.moveMade(this, move);
+        }
         return true;
     }
 
     /**
-     * Switches the current player from 'X' to 'O' or vice versa.
+     * Switches to the player who moves next under the current rules.
      */
     private void switchPlayer() {
-        currentPlayer = (currentPlayer == 'X') ? 'O' : 'X';
+        currentPlayer = rules.nextPlayer(currentPlayer);
     }
 
     /**
-     * Checks the current state of the game to determine if there's a winner or a draw.
+     * Checks the current state of the game under the current rules.
+     * @param player The player who just moved.
      */
-    private void checkGameStatus() {
-        // Check rows
-        for (int i = 0; i < 3; i++) {
-            if (board[i][0] != ' ' && board[i][0] == board[i][1] && board[i][1] == board[i][2]) {
-                setWinner(board[i][0]);
-                return;
-            }
-        }
-
-        // Check columns
-        for (int j = 0; j < 3; j++) {
-            if (board[0][j] != ' ' && board[0][j] == board[1][j] && board[1][j] == board[2][j]) {
-                setWinner(board[0][j]);
-                return;
-            }
-        }
-
-        // Check diagonals
-        if (board[0][0] != ' ' && board[0][0] == board[1][1] && board[1][1] == board[2][2]) {
-            setWinner(board[0][0]);
-            return;
-        }
-        if (board[0][2] != ' ' && board[0][2] == board[1][1] && board[1][1] == board[2][0]) {
-            setWinner(board[0][2]);
-            return;
-        }
-
-        // Check for draw
-        boolean isBoardFull = true;
-        for (int i = 0; i < 3; i++) {
-            for (int j = 0; j < 3; j++) {
-                if (board[i][j] == ' ') {
-                    isBoardFull = false;
-                    break;
-                }
-            }
-            if (!isBoardFull) break;
-        }
-
-        if (isBoardFull) {
-            gameStatus = GameStatus.DRAW;
-        }
-    }
-
-    /**
-     * Sets the game status to indicate a winner.
-     * @param winner The character of the winning player ('X' or 'O').
-     */
-    private void setWinner(char winner) {
-        if (winner == 'X') {
-            gameStatus = GameStatus.X_WINS;
-        } else if (winner == 'O') {
-            gameStatus = GameStatus.O_WINS;
-        }
+    private void checkGameStatus(char player) {
+        gameStatus = rules.checkGameStatus(board, player);
     }
 
     /**
@@ -154,6 +134,30 @@ public class TicTacToeModel {
         return gameStatus;
     }
 
+    /**
+     * Registers a listener to be notified of moves and resets.
+     * @param listener The listener to add.
+     */
+    public void addGameListener(GameListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Unregisters a previously added listener.
+     * @param listener The listener to remove.
+     */
+    public void removeGameListener(GameListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Gets the rules this game is played by.
+     * @return The GameRules instance.
+     */
+    public GameRules getRules() {
+        return rules;
+    }
+
     /**
      * Gets the game history object.
      * @return The GameHistory instance.
@@ -163,6 +163,15 @@ public class TicTacToeView extends JFrame {
         buttons[r3][c3].setBackground(Color.YELLOW);
     }
 
+    /**
+     * Programmatically clicks a board button, firing its listeners as a user click would.
+     * @param row The row of the button.
+     * @param col The column of the button.
+     */
+    public void clickCell(int row, int col) {
+        buttons[row][col].doClick(0);
+    }
+
     /**
      * Adds an ActionListener to each board button.
      * @param listener The ActionListener to add.
@@ -0,0 +1,19 @@
+// WildRules.java
+/**
+ * Wild Tic-Tac-Toe: on each turn a player may place either symbol,
+ * and whoever completes a line of either symbol wins.
+ */
+final class WildRules implements GameRules {
+    @Override
+    public TicTacToeModel.GameStatus checkGameStatus(char[][] board, char player) {
+        if (GameRules.findLine(board) != ' ') {
+            return GameRules.winFor(player);
+        }
+        return GameRules.isBoardFull(board) ? TicTacToeModel.GameStatus.DRAW : TicTacToeModel.GameStatus.PLAYING;
+    }
+
+    @Override
+    public boolean canPlace(char player, char symbol) {
+        return symbol == 'X' || symbol == 'O';
+    }
+}
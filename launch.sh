@@ -0,0 +1,63 @@
+#!/bin/sh
+# Packaged launcher for the Tic-Tac-Toe Swing client.
+#
+# Compiles the sources into build/tictactoe.jar and, on first launch, performs a
+# training run (StartupBenchmark) that dumps the loaded Swing/AWT and game classes
+# into an AppCDS archive. Later launches map that archive to cut cold-start time.
+#
+# Usage:
+#   ./launch.sh            run the game
+#   ./launch.sh bench      run the startup benchmark with the archive
+#   ./launch.sh bench-cold run the startup benchmark without the archive
+#   ./launch.sh clean      remove build output and the archive
+#
+# Requires JDK 13 or newer (dynamic CDS archives).
+
+set -e
+
+cd "$(dirname "$0")"
+
+BUILD_DIR=build
+CLASSES_DIR=$BUILD_DIR/classes
+JAR=$BUILD_DIR/tictactoe.jar
+ARCHIVE=$BUILD_DIR/tictactoe.jsa
+
+build_jar() {
+    # Rebuild when any source is newer than the jar; a stale archive is rejected by the JVM anyway
+    if [ ! -f "$JAR" ] || [ -n "$(find . -maxdepth 1 -name '*.java' -newer "$JAR")" ]; then
+        rm -rf "$CLASSES_DIR" "$ARCHIVE"
+        mkdir -p "$CLASSES_DIR"
+        javac -d "$CLASSES_DIR" ./*.java
+        jar --create --file "$JAR" --main-class TicTacToeController -C "$CLASSES_DIR" .
+    fi
+}
+
+build_archive() {
+    if [ ! -f "$ARCHIVE" ]; then
+        echo "Creating class-data sharing archive (training run)..."
+        if ! java -XX:ArchiveClassesAtExit="$ARCHIVE" -cp "$JAR" StartupBenchmark; then
+            rm -f "$ARCHIVE"
+            exit 1
+        fi
+    fi
+}
+
+case "$1" in
+    clean)
+        rm -rf "$BUILD_DIR"
+        ;;
+    bench)
+        build_jar
+        build_archive
+        java -XX:SharedArchiveFile="$ARCHIVE" -cp "$JAR" StartupBenchmark
+        ;;
+    bench-cold)
+        build_jar
+        java -Xshare:off -cp "$JAR" StartupBenchmark
+        ;;
+    *)
+        build_jar
+        build_archive
+        exec java -XX:SharedArchiveFile="$ARCHIVE" -jar "$JAR"
+        ;;
+esac